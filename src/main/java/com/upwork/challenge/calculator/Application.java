@@ -3,14 +3,12 @@ package com.upwork.challenge.calculator;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
-import springfox.documentation.swagger2.annotations.EnableSwagger2;
 
 /**
  * Spring Boot application entry point.
  */
 @SpringBootApplication
 @EnableCaching
-@EnableSwagger2
 public class Application {
 
     public static void main(String[] args) {
@@ -2,6 +2,7 @@ package com.upwork.challenge.calculator.core;
 
 import com.upwork.challenge.calculator.support.ApiResponse;
 import com.upwork.challenge.calculator.support.Result;
+import com.upwork.challenge.calculator.support.ServerTiming;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -11,15 +12,21 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.math.BigDecimal;
+import java.util.function.Supplier;
 
 /**
  * Controller which maps each API endpoint's path to its corresponding handler.
  */
 @RequiredArgsConstructor
 @RestController
-@RequestMapping(path = "${api.base-path}/calculator", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequestMapping(path = CalculatorController.PATH, produces = MediaType.APPLICATION_JSON_VALUE)
 public class CalculatorController {
 
+    /**
+     * Base path of the calculator endpoints, shared with the configuration which targets them.
+     */
+    public static final String PATH = "${api.base-path}/calculator";
+
     private static final String OK = "OK";
 
     private final CalculatorService calculatorService;
@@ -36,11 +43,7 @@ public class CalculatorController {
     public ResponseEntity<ApiResponse<Result>> add(@PathVariable BigDecimal operand1,
                                                    @PathVariable BigDecimal operand2,
                                                    @PathVariable(required = false) BigDecimal operand3) {
-        return ResponseEntity.ok(
-                ApiResponse.<Result>builder()
-                        .message(OK)
-                        .data(calculatorService.add(operand1, operand2, operand3))
-                        .build());
+        return respond(() -> calculatorService.add(operand1, operand2, operand3));
     }
 
     /**
@@ -55,11 +58,7 @@ public class CalculatorController {
     public ResponseEntity<ApiResponse<Result>> subtract(@PathVariable BigDecimal operand1,
                                                         @PathVariable BigDecimal operand2,
                                                         @PathVariable(required = false) BigDecimal operand3) {
-        return ResponseEntity.ok(
-                ApiResponse.<Result>builder()
-                        .message(OK)
-                        .data(calculatorService.subtract(operand1, operand2, operand3))
-                        .build());
+        return respond(() -> calculatorService.subtract(operand1, operand2, operand3));
     }
 
     /**
@@ -74,11 +73,7 @@ public class CalculatorController {
     public ResponseEntity<ApiResponse<Result>> multiply(@PathVariable BigDecimal operand1,
                                                         @PathVariable BigDecimal operand2,
                                                         @PathVariable(required = false) BigDecimal operand3) {
-        return ResponseEntity.ok(
-                ApiResponse.<Result>builder()
-                        .message(OK)
-                        .data(calculatorService.multiply(operand1, operand2, operand3))
-                        .build());
+        return respond(() -> calculatorService.multiply(operand1, operand2, operand3));
     }
 
     /**
@@ -91,10 +86,26 @@ public class CalculatorController {
     @GetMapping(path = "divide/{dividend}/{divisor}")
     public ResponseEntity<ApiResponse<Result>> divide(@PathVariable BigDecimal dividend,
                                                       @PathVariable BigDecimal divisor) {
-        return ResponseEntity.ok(
+        return respond(() -> calculatorService.divide(dividend, divisor));
+    }
+
+    /**
+     * Runs the given calculation and wraps its result in a successful response, recording the conversion, compute
+     * and build phases in the current request's {@link ServerTiming}.
+     *
+     * @param calculation Calculation to run.
+     * @return {@code ResponseEntity<ApiResponse<Result>>} representing the response.
+     */
+    private ResponseEntity<ApiResponse<Result>> respond(Supplier<Result> calculation) {
+        ServerTiming timing = ServerTiming.current();
+        timing.lap(ServerTiming.CONVERSION);
+
+        Result result = timing.time(ServerTiming.COMPUTE, calculation);
+
+        return timing.time(ServerTiming.BUILD, () -> ResponseEntity.ok(
                 ApiResponse.<Result>builder()
                         .message(OK)
-                        .data(calculatorService.divide(dividend, divisor))
-                        .build());
+                        .data(result)
+                        .build()));
     }
 }
@@ -0,0 +1,42 @@
+package com.upwork.challenge.calculator.support;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+/**
+ * Class-data-sharing training run, only registered when {@code api.cds.training-run} is set by the build. Once the
+ * application is ready it serves a single calculator request to itself, so the classes loaded on the first request
+ * also end up in the class list, and then exits.
+ */
+@Slf4j
+public class CdsTrainingRun implements ApplicationListener<ApplicationReadyEvent> {
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        Environment environment = event.getApplicationContext().getEnvironment();
+        String url = String.format("http://localhost:%s%s/calculator/multiply/2/3",
+                environment.getProperty("local.server.port"), environment.getProperty("api.base-path"));
+
+        log.info(String.format("CDS training request [status: %d]", request(url)));
+
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+
+    @SneakyThrows
+    private static int request(String url) {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        try {
+            connection.getInputStream().readAllBytes();
+            return connection.getResponseCode();
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.upwork.challenge.calculator.support;
+
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Times the conversion of handler arguments into the current request's {@link ServerTiming}. The conversion starts
+ * right before the handler is invoked. A successful conversion is closed by the handler itself, while a failed one is
+ * closed here, as the first {@link HandlerExceptionResolver}, before the exception is mapped to a response.
+ */
+public class ConversionTimingInterceptor implements HandlerInterceptor, HandlerExceptionResolver {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ServerTiming.current().checkpoint();
+        return true;
+    }
+
+    @Override
+    public ModelAndView resolveException(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                         Exception exception) {
+        if (exception instanceof MethodArgumentTypeMismatchException) {
+            ServerTiming timing = ServerTiming.current();
+            if (!timing.contains(ServerTiming.CONVERSION)) {
+                timing.lap(ServerTiming.CONVERSION);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,83 @@
+package com.upwork.challenge.calculator.support;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+
+/**
+ * {@link BeanFactoryPostProcessor} which makes application beans lazily initialized, modelled after Spring Boot 2.2's
+ * {@code LazyInitializationBeanFactoryPostProcessor}. It leaves eager the beans which are not safe to defer:
+ * <ul>
+ *     <li>beans explicitly annotated with {@code @Lazy(false)};</li>
+ *     <li>infrastructure beans, i.e. {@link BeanDefinition#ROLE_INFRASTRUCTURE};</li>
+ *     <li>{@link SmartInitializingSingleton} beans, whose callback only runs for eagerly created singletons.</li>
+ * </ul>
+ * Spring 5.1 bean definitions cannot tell an explicit {@code lazyInit=false} from the default, so the
+ * {@code @Lazy(false)} check reads the annotation metadata of annotated bean definitions instead. Bean types are
+ * resolved from the definitions alone, without instantiating anything, so a {@code @Bean} method must declare a
+ * {@link SmartInitializingSingleton} return type to stay eager: one declaring a plain interface becomes lazy, and its
+ * {@code afterSingletonsInstantiated} callback never runs.
+ */
+public class LazyInitializationBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (!isExcluded(definition, beanFactory.getBeanClassLoader())) {
+                definition.setLazyInit(true);
+            }
+        }
+    }
+
+    private static boolean isExcluded(BeanDefinition definition, ClassLoader classLoader) {
+        return definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE
+                || isExplicitlyEager(definition)
+                || isSmartInitializingSingleton(definition, classLoader);
+    }
+
+    private static boolean isExplicitlyEager(BeanDefinition definition) {
+        AnnotatedTypeMetadata metadata = getMetadata(definition);
+        if (metadata == null) {
+            return false;
+        }
+        Map<String, Object> lazy = metadata.getAnnotationAttributes(Lazy.class.getName());
+        return lazy != null && Boolean.FALSE.equals(lazy.get("value"));
+    }
+
+    /**
+     * Resolves the bean type from its definition only, without instantiating anything, e.g. factory beans.
+     */
+    private static boolean isSmartInitializingSingleton(BeanDefinition definition, ClassLoader classLoader) {
+        String typeName = getTypeName(definition);
+        if (typeName == null || !ClassUtils.isPresent(typeName, classLoader)) {
+            return false;
+        }
+        return SmartInitializingSingleton.class.isAssignableFrom(ClassUtils.resolveClassName(typeName, classLoader));
+    }
+
+    private static String getTypeName(BeanDefinition definition) {
+        AnnotatedTypeMetadata metadata = getMetadata(definition);
+        return metadata instanceof MethodMetadata
+                ? ((MethodMetadata) metadata).getReturnTypeName()
+                : definition.getBeanClassName();
+    }
+
+    private static AnnotatedTypeMetadata getMetadata(BeanDefinition definition) {
+        if (!(definition instanceof AnnotatedBeanDefinition)) {
+            return null;
+        }
+        AnnotatedBeanDefinition annotated = (AnnotatedBeanDefinition) definition;
+        return annotated.getFactoryMethodMetadata() != null
+                ? annotated.getFactoryMethodMetadata()
+                : annotated.getMetadata();
+    }
+}
@@ -0,0 +1,145 @@
+package com.upwork.challenge.calculator.support;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Per-request phase timing recorder. An instance is bound to the current request by {@link ServerTimingFilter} and
+ * its durations are rendered as a <a href="https://www.w3.org/TR/server-timing/">Server-Timing</a> header value.
+ * Durations recorded by {@link #time(String, Supplier)} are exclusive, i.e. they do not include nested phases.
+ */
+public class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    public static final String CONVERSION = "conversion";
+    public static final String CACHE = "cache";
+    public static final String COMPUTE = "compute";
+    public static final String BUILD = "build";
+    public static final String SERIALIZATION = "serialization";
+    public static final String TOTAL = "total";
+
+    static final String ATTRIBUTE = ServerTiming.class.getName();
+
+    private final Map<String, Long> durations = new LinkedHashMap<>();
+
+    private final long start = System.nanoTime();
+
+    private long checkpoint = start;
+
+    private long recorded;
+
+    /**
+     * Returns the recorder bound to the current request. Outside of a timed request a detached recorder is returned,
+     * so callers do not need to care whether timing is enabled.
+     *
+     * @return {@link ServerTiming} of the current request.
+     */
+    public static ServerTiming current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object timing = attributes != null
+                ? attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                : null;
+
+        return timing instanceof ServerTiming ? (ServerTiming) timing : new ServerTiming();
+    }
+
+    /**
+     * Moves the checkpoint to now without recording anything.
+     */
+    public void checkpoint() {
+        checkpoint = System.nanoTime();
+    }
+
+    /**
+     * Records the time elapsed since the last checkpoint under the given metric and moves the checkpoint to now.
+     *
+     * @param metric Metric name.
+     */
+    public void lap(String metric) {
+        long now = System.nanoTime();
+        record(metric, now - checkpoint);
+        checkpoint = now;
+    }
+
+    /**
+     * Runs the given supplier and records its duration under the given metric, excluding any duration recorded by
+     * nested phases in the meantime. The checkpoint is moved to the end of the supplier.
+     *
+     * @param metric Metric name.
+     * @param supplier Timed code.
+     * @param <T> Generic type.
+     * @return Value returned by the supplier.
+     */
+    public <T> T time(String metric, Supplier<T> supplier) {
+        long begin = System.nanoTime();
+        long nested = recorded;
+        try {
+            return supplier.get();
+        } finally {
+            long now = System.nanoTime();
+            record(metric, now - begin - (recorded - nested));
+            checkpoint = now;
+        }
+    }
+
+    /**
+     * Adds the given duration to the metric, accumulating it if the metric was already recorded.
+     *
+     * @param metric Metric name.
+     * @param nanos Duration in nanoseconds.
+     */
+    public void record(String metric, long nanos) {
+        durations.merge(metric, nanos, Long::sum);
+        recorded += nanos;
+    }
+
+    /**
+     * @param metric Metric name.
+     * @return Recorded duration of the metric in nanoseconds, or zero if it was not recorded.
+     */
+    public long duration(String metric) {
+        return durations.getOrDefault(metric, 0L);
+    }
+
+    public boolean contains(String metric) {
+        return durations.containsKey(metric);
+    }
+
+    /**
+     * @return Time elapsed since this recorder was created, in nanoseconds.
+     */
+    public long elapsed() {
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * @return Recorded durations in milliseconds, in recording order.
+     */
+    public Map<String, Double> toMillis() {
+        return Collections.unmodifiableMap(durations.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> toMillis(entry.getValue()),
+                        (first, second) -> first, LinkedHashMap::new)));
+    }
+
+    /**
+     * @return Recorded durations formatted as a {@code Server-Timing} header value.
+     */
+    public String toHeaderValue() {
+        return durations.entrySet().stream()
+                .map(entry -> String.format(Locale.ROOT, "%s;dur=%.3f", entry.getKey(), toMillis(entry.getValue())))
+                .collect(Collectors.joining(", "));
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,72 @@
+package com.upwork.challenge.calculator.support;
+
+import com.upwork.challenge.calculator.core.CalculatorController;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Server timing configuration. It registers the {@link ServerTimingFilter} and the
+ * {@link ConversionTimingInterceptor} for the calculator endpoints, the {@link TimedCacheManager} decoration and the
+ * {@link SlowRequestsEndpoint} actuator endpoint.
+ */
+@Configuration
+@EnableConfigurationProperties(ServerTimingProperties.class)
+public class ServerTimingConfiguration implements WebMvcConfigurer {
+
+    private final ConversionTimingInterceptor conversionTimingInterceptor = new ConversionTimingInterceptor();
+
+    @Value(CalculatorController.PATH)
+    private String calculatorPath;
+
+    @Bean
+    public SlowRequestLog slowRequestLog(ServerTimingProperties properties) {
+        return new SlowRequestLog(properties.getSlowRequestLogSize());
+    }
+
+    @Bean
+    public SlowRequestsEndpoint slowRequestsEndpoint(SlowRequestLog slowRequestLog) {
+        return new SlowRequestsEndpoint(slowRequestLog);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(SlowRequestLog slowRequestLog,
+                                                                         ServerTimingProperties properties) {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(
+                new ServerTimingFilter(slowRequestLog, properties.getSlowRequestThreshold()));
+        registration.addUrlPatterns(calculatorPath + "/*");
+        return registration;
+    }
+
+    @Bean
+    public static BeanPostProcessor timedCacheManagerPostProcessor() {
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof CacheManager && !(bean instanceof TimedCacheManager)
+                        ? new TimedCacheManager((CacheManager) bean)
+                        : bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conversionTimingInterceptor).addPathPatterns(calculatorPath + "/**");
+    }
+
+    @Override
+    public void extendHandlerExceptionResolvers(List<HandlerExceptionResolver> resolvers) {
+        resolvers.add(0, conversionTimingInterceptor);
+    }
+}
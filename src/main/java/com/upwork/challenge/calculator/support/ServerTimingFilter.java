@@ -0,0 +1,106 @@
+package com.upwork.challenge.calculator.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Servlet filter which binds a {@link ServerTiming} to every request and emits its phase durations as a
+ * {@code Server-Timing} response header. The response body is buffered so that the header can still be set once the
+ * body has been serialized, and the header is also set right before an error is sent, since that commits the response.
+ * The body is only copied once the chain returns normally, so a failed request is left for the container to render.
+ * Requests lasting at least the configured threshold are added to the {@link SlowRequestLog}.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private final SlowRequestLog slowRequestLog;
+
+    private final Duration slowRequestThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ServerTiming timing = new ServerTiming();
+        request.setAttribute(ServerTiming.ATTRIBUTE, timing);
+
+        ServerTimingResponseWrapper wrapper = new ServerTimingResponseWrapper(response, timing);
+        try {
+            chain.doFilter(request, wrapper);
+        } finally {
+            wrapper.writeServerTimingHeader();
+
+            if (timing.duration(ServerTiming.TOTAL) >= slowRequestThreshold.toNanos()) {
+                captureSlowRequest(request, wrapper.getStatusCode(), timing);
+            }
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void captureSlowRequest(HttpServletRequest request, int status, ServerTiming timing) {
+        SlowRequestLog.SlowRequest slowRequest = new SlowRequestLog.SlowRequest(
+                Instant.now(),
+                request.getMethod(),
+                request.getRequestURI(),
+                status,
+                timing.toMillis().get(ServerTiming.TOTAL),
+                timing.toMillis());
+
+        log.warn(String.format("Slow request [%s %s: %s]", slowRequest.getMethod(), slowRequest.getUri(),
+                timing.toHeaderValue()));
+
+        slowRequestLog.add(slowRequest);
+    }
+
+    /**
+     * Response wrapper which closes the timing and sets the {@code Server-Timing} header exactly once, either right
+     * before an error is sent or once the filter chain returns.
+     */
+    private static class ServerTimingResponseWrapper extends ContentCachingResponseWrapper {
+
+        private final ServerTiming timing;
+
+        private boolean headerWritten;
+
+        ServerTimingResponseWrapper(HttpServletResponse response, ServerTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeServerTimingHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeServerTimingHeader();
+            super.sendError(sc, msg);
+        }
+
+        void writeServerTimingHeader() {
+            if (headerWritten) {
+                return;
+            }
+            headerWritten = true;
+
+            if (timing.contains(ServerTiming.BUILD)) {
+                timing.lap(ServerTiming.SERIALIZATION);
+            }
+            timing.record(ServerTiming.TOTAL, timing.elapsed());
+
+            setHeader(ServerTiming.HEADER, timing.toHeaderValue());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.upwork.challenge.calculator.support;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Server timing settings, bound from {@code api.server-timing.*} properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "api.server-timing")
+public class ServerTimingProperties {
+
+    /**
+     * Requests lasting at least this long are captured by the {@link SlowRequestLog}.
+     */
+    private Duration slowRequestThreshold = Duration.ofMillis(500);
+
+    /**
+     * Maximum number of slow requests kept in memory. The oldest ones are discarded first.
+     */
+    private int slowRequestLogSize = 100;
+}
@@ -0,0 +1,64 @@
+package com.upwork.challenge.calculator.support;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded in-memory log of the most recent requests which exceeded the slow request threshold. Once full, the oldest
+ * entry is discarded on every addition.
+ */
+public class SlowRequestLog {
+
+    private final int capacity;
+
+    private final Deque<SlowRequest> entries;
+
+    public SlowRequestLog(int capacity) {
+        this.capacity = Math.max(capacity, 0);
+        this.entries = new ArrayDeque<>(this.capacity);
+    }
+
+    public synchronized void add(SlowRequest request) {
+        if (capacity == 0) {
+            return;
+        }
+        if (entries.size() == capacity) {
+            entries.removeFirst();
+        }
+        entries.addLast(request);
+    }
+
+    /**
+     * @return Logged requests, most recent first.
+     */
+    public synchronized List<SlowRequest> getEntries() {
+        List<SlowRequest> snapshot = new ArrayList<>(entries.size());
+        entries.descendingIterator().forEachRemaining(snapshot::add);
+        return snapshot;
+    }
+
+    /**
+     * A request which exceeded the slow request threshold, along with its phase timings in milliseconds.
+     */
+    @Value
+    public static class SlowRequest {
+
+        private final Instant timestamp;
+
+        private final String method;
+
+        private final String uri;
+
+        private final int status;
+
+        private final double duration;
+
+        private final Map<String, Double> timings;
+    }
+}
@@ -0,0 +1,22 @@
+package com.upwork.challenge.calculator.support;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint which exposes the {@link SlowRequestLog} at {@code /actuator/slowrequests}.
+ */
+@RequiredArgsConstructor
+@Endpoint(id = "slowrequests")
+public class SlowRequestsEndpoint {
+
+    private final SlowRequestLog slowRequestLog;
+
+    @ReadOperation
+    public List<SlowRequestLog.SlowRequest> slowRequests() {
+        return slowRequestLog.getEntries();
+    }
+}
@@ -0,0 +1,33 @@
+package com.upwork.challenge.calculator.support;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup configuration. It registers the {@link StartupReporter} and, when {@code api.startup.lazy-initialization}
+ * is enabled, the {@link LazyInitializationBeanFactoryPostProcessor}, which defers the creation of application beans
+ * until they are first needed. The {@link CdsTrainingRun} is only registered for the build's class-data-sharing
+ * training run.
+ */
+@Configuration
+public class StartupConfiguration {
+
+    @Bean
+    public StartupReporter startupReporter() {
+        return new StartupReporter();
+    }
+
+    @Bean
+    @ConditionalOnProperty("api.startup.lazy-initialization")
+    public static BeanFactoryPostProcessor lazyInitializationBeanFactoryPostProcessor() {
+        return new LazyInitializationBeanFactoryPostProcessor();
+    }
+
+    @Bean
+    @ConditionalOnProperty("api.cds.training-run")
+    public CdsTrainingRun cdsTrainingRun() {
+        return new CdsTrainingRun();
+    }
+}
@@ -0,0 +1,46 @@
+package com.upwork.challenge.calculator.support;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Logs the time elapsed since JVM start until the application is ready, and until its first request is served.
+ * After the first request it only costs a volatile read per request.
+ */
+@Slf4j
+public class StartupReporter extends OncePerRequestFilter implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final AtomicBoolean firstRequestServed = new AtomicBoolean();
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        log.info(String.format("Ready to serve requests [time since JVM start: %d ms]", uptime()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (!firstRequestServed.get() && firstRequestServed.compareAndSet(false, true)) {
+                log.info(String.format("First request served [%s %s, time since JVM start: %d ms]",
+                        request.getMethod(), request.getRequestURI(), uptime()));
+            }
+        }
+    }
+
+    private static long uptime() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+}
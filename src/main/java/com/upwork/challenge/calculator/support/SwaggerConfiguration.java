@@ -1,22 +1,41 @@
 package com.upwork.challenge.calculator.support;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.handler.MappedInterceptor;
 import springfox.documentation.builders.PathSelectors;
 import springfox.documentation.builders.RequestHandlerSelectors;
 import springfox.documentation.service.ApiInfo;
 import springfox.documentation.service.Contact;
 import springfox.documentation.spi.DocumentationType;
 import springfox.documentation.spring.web.plugins.Docket;
+import springfox.documentation.spring.web.plugins.DocumentationPluginsBootstrapper;
+import springfox.documentation.swagger2.annotations.EnableSwagger2;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import java.util.Collections;
 
 /**
- * Swagger configuration for API documentation generation.
+ * Swagger configuration for API documentation generation. It can be disabled altogether through
+ * {@code api.swagger.enabled=false}. When springfox's startup scan is turned off through
+ * {@code springfox.documentation.auto-startup=false}, the documentation is built on first access instead. The bootstrap
+ * interceptor is exposed as a {@link MappedInterceptor} bean so that springfox's own handler mapping, which serves the
+ * documentation endpoint, picks it up as well.
  */
+@RequiredArgsConstructor
 @Configuration
+@EnableSwagger2
+@ConditionalOnProperty(name = "api.swagger.enabled", matchIfMissing = true)
 public class SwaggerConfiguration {
 
+    private final ObjectProvider<DocumentationPluginsBootstrapper> bootstrapper;
+
     @Bean
     public Docket docket() {
         return new Docket(DocumentationType.SWAGGER_2)
@@ -32,4 +51,36 @@ public class SwaggerConfiguration {
                         new Contact("Cristian Ebbens", null, "cebbens@gmail.com"),
                         null, null, Collections.emptyList()));
     }
-}
\ No newline at end of file
+
+    @Bean
+    @ConditionalOnProperty(name = "springfox.documentation.auto-startup", havingValue = "false")
+    public MappedInterceptor documentationBootstrapInterceptor(
+            @Value("${springfox.documentation.swagger.v2.path:/v2/api-docs}") String documentationPath) {
+        return new MappedInterceptor(new String[]{documentationPath, "/swagger-resources/**"},
+                new DocumentationBootstrapInterceptor(bootstrapper));
+    }
+
+    /**
+     * Interceptor which runs springfox's documentation scan once, before the first documentation request is handled.
+     */
+    @RequiredArgsConstructor
+    static class DocumentationBootstrapInterceptor implements HandlerInterceptor {
+
+        private final ObjectProvider<DocumentationPluginsBootstrapper> bootstrapper;
+
+        private volatile boolean started;
+
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            if (!started) {
+                synchronized (this) {
+                    if (!started) {
+                        bootstrapper.getObject().start();
+                        started = true;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+}
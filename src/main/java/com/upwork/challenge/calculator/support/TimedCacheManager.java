@@ -0,0 +1,115 @@
+package com.upwork.challenge.calculator.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * {@link CacheManager} decorator whose caches record lookups and stores under the {@link ServerTiming#CACHE} metric of
+ * the current request, so cache time can be told apart from the computation itself. Decorated caches are memoized,
+ * since caches are resolved on every cached method invocation.
+ */
+@RequiredArgsConstructor
+public class TimedCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache == null) {
+            Cache target = delegate.getCache(name);
+            if (target == null) {
+                return null;
+            }
+            cache = caches.computeIfAbsent(name, key -> new TimedCache(target));
+        }
+        return cache;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    @RequiredArgsConstructor
+    static class TimedCache implements Cache {
+
+        private final Cache delegate;
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return delegate.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            return timed(() -> delegate.get(key));
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return timed(() -> delegate.get(key, type));
+        }
+
+        /**
+         * Synchronized read path. The value loader runs the cached computation, so it is recorded as a nested
+         * {@link ServerTiming#COMPUTE} phase, which keeps it out of the cache duration.
+         */
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return timed(() -> delegate.get(key, () ->
+                    ServerTiming.current().time(ServerTiming.COMPUTE, () -> call(valueLoader))));
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            timed(() -> {
+                delegate.put(key, value);
+                return null;
+            });
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            return timed(() -> delegate.putIfAbsent(key, value));
+        }
+
+        @Override
+        public void evict(Object key) {
+            delegate.evict(key);
+        }
+
+        @Override
+        public void clear() {
+            delegate.clear();
+        }
+
+        private static <T> T timed(Supplier<T> operation) {
+            return ServerTiming.current().time(ServerTiming.CACHE, operation);
+        }
+
+        /**
+         * Calls the value loader rethrowing its exception as is, so the delegate can wrap it in a
+         * {@link org.springframework.cache.Cache.ValueRetrievalException} as usual.
+         */
+        @SneakyThrows
+        private static <T> T call(Callable<T> valueLoader) {
+            return valueLoader.call();
+        }
+    }
+}
@@ -170,6 +170,64 @@ public class ApplicationTests {
             .body("errors[0]", is("/ by zero"));
     }
 
+    @Test
+    public void shouldReportServerTimingPhases() {
+        when()
+            .get("/multiply/{operand1}/{operand2}", 3, 3)
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .header("Server-Timing", allOf(
+                    containsString("conversion;dur="),
+                    containsString("cache;dur="),
+                    containsString("compute;dur="),
+                    containsString("build;dur="),
+                    containsString("serialization;dur="),
+                    containsString("total;dur=")));
+    }
+
+    @Test
+    public void shouldReportServerTimingConversionOnFailedConversion() {
+        when()
+            .get("/multiply/{operand1}/{operand2}", 123, "abc")
+        .then()
+            .statusCode(HttpStatus.BAD_REQUEST.value())
+            .header("Server-Timing", allOf(
+                    containsString("conversion;dur="),
+                    containsString("total;dur="),
+                    not(containsString("compute;dur="))));
+    }
+
+    @Test
+    public void shouldReportServerTimingOnUnmappedPath() {
+        when()
+            .get("/add/{operand1}", 1)
+        .then()
+            .statusCode(HttpStatus.NOT_FOUND.value())
+            .header("Server-Timing", containsString("total;dur="));
+    }
+
+    /**
+     * The addition lasts more than a second by means of a fixed delay in the service method, so it exceeds the default
+     * slow request threshold and shows up in the slow requests actuator endpoint.
+     */
+    @Test
+    public void shouldCaptureSlowRequest() {
+        when()
+            .get("/add/{operand1}/{operand2}", 5.5, 1.1)
+        .then()
+            .statusCode(HttpStatus.OK.value());
+
+        given()
+            .basePath("/actuator")
+        .when()
+            .get("/slowrequests")
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("uri", hasItem("/api/v1/calculator/add/5.5/1.1"))
+            .body("find { it.uri == '/api/v1/calculator/add/5.5/1.1' }.status", is(HttpStatus.OK.value()))
+            .body("find { it.uri == '/api/v1/calculator/add/5.5/1.1' }.timings", hasKey("compute"));
+    }
+
     /**
      * Test cache usage by issuing the same request twice and verifying that the first request lasted more than a
      * second, by means of a fixed delay in the service method itself, while the second one lasted less than a few
@@ -0,0 +1,70 @@
+package com.upwork.challenge.calculator;
+
+import io.restassured.http.ContentType;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.junit4.SpringRunner;
+import springfox.documentation.spring.web.plugins.DocumentationPluginsBootstrapper;
+
+import static io.restassured.RestAssured.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Integration test suite for the fast-start production settings: lazy bean initialization and Swagger documentation
+ * built on first access. Requests set their own port and base path, so the global Rest-Assured configuration of
+ * {@link ApplicationTests} is left untouched. Test methods' names are self-explanatory.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "api.startup.lazy-initialization=true",
+        "springfox.documentation.auto-startup=false"})
+public class FastStartTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    private DocumentationPluginsBootstrapper documentationPluginsBootstrapper;
+
+    @Test
+    public void shouldServeCalculatorRequestWithLazyInitialization() {
+        assertThat(beanFactory.getBeanDefinition("calculatorController").isLazyInit()).isTrue();
+
+        given()
+            .port(port)
+            .basePath("/api/v1/calculator")
+            .accept(ContentType.JSON)
+        .when()
+            .get("/multiply/{operand1}/{operand2}", 2, 3)
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("message", is(HttpStatus.OK.getReasonPhrase()))
+            .body("data.result", is(6));
+    }
+
+    @Test
+    public void shouldBuildApiDocsOnFirstAccess() {
+        assertThat(documentationPluginsBootstrapper.isRunning()).isFalse();
+
+        given()
+            .port(port)
+            .basePath("")
+            .accept(ContentType.JSON)
+        .when()
+            .get("/v2/api-docs")
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("info.title", is("Calculator API"));
+
+        assertThat(documentationPluginsBootstrapper.isRunning()).isTrue();
+    }
+}
@@ -0,0 +1,127 @@
+package com.upwork.challenge.calculator;
+
+import com.upwork.challenge.calculator.support.LazyInitializationBeanFactoryPostProcessor;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.AnnotatedGenericBeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConfigurationClassPostProcessor;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Lazy initialization bean factory post-processor unit test suite. Bean definitions of every kind are registered in a
+ * plain bean factory, and {@code @Bean} methods are parsed into definitions the same way the application context does.
+ * Test methods' names are self-explanatory.
+ */
+public class LazyInitializationBeanFactoryPostProcessorTests {
+
+    static class PlainBean {
+    }
+
+    @Lazy(false)
+    static class EagerBean {
+    }
+
+    static class SmartBean implements SmartInitializingSingleton, Runnable {
+
+        @Override
+        public void afterSingletonsInstantiated() {
+        }
+
+        @Override
+        public void run() {
+        }
+    }
+
+    static class TestConfiguration {
+
+        @Bean
+        public PlainBean plainFactoryBean() {
+            return new PlainBean();
+        }
+
+        @Bean
+        @Lazy(false)
+        public PlainBean eagerFactoryBean() {
+            return new PlainBean();
+        }
+
+        @Bean
+        @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+        public PlainBean infrastructureFactoryBean() {
+            return new PlainBean();
+        }
+
+        @Bean
+        public SmartBean smartFactoryBean() {
+            return new SmartBean();
+        }
+
+        @Bean
+        public Runnable smartFactoryBeanBehindInterface() {
+            return new SmartBean();
+        }
+    }
+
+    private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+    @Before
+    public void postProcessBeanFactory() {
+        beanFactory.registerBeanDefinition("plainBean", new AnnotatedGenericBeanDefinition(PlainBean.class));
+        beanFactory.registerBeanDefinition("eagerBean", new AnnotatedGenericBeanDefinition(EagerBean.class));
+        beanFactory.registerBeanDefinition("smartBean", new RootBeanDefinition(SmartBean.class));
+
+        RootBeanDefinition infrastructureBean = new RootBeanDefinition(PlainBean.class);
+        infrastructureBean.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+        beanFactory.registerBeanDefinition("infrastructureBean", infrastructureBean);
+
+        beanFactory.registerBeanDefinition("testConfiguration", new RootBeanDefinition(TestConfiguration.class));
+        new ConfigurationClassPostProcessor().postProcessBeanDefinitionRegistry(beanFactory);
+
+        new LazyInitializationBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+    }
+
+    @Test
+    public void shouldMakePlainBeansLazy() {
+        assertThat(isLazyInit("plainBean")).isTrue();
+        assertThat(isLazyInit("plainFactoryBean")).isTrue();
+    }
+
+    @Test
+    public void shouldKeepExplicitlyEagerBeansEager() {
+        assertThat(isLazyInit("eagerBean")).isFalse();
+        assertThat(isLazyInit("eagerFactoryBean")).isFalse();
+    }
+
+    @Test
+    public void shouldKeepInfrastructureBeansEager() {
+        assertThat(isLazyInit("infrastructureBean")).isFalse();
+        assertThat(isLazyInit("infrastructureFactoryBean")).isFalse();
+    }
+
+    @Test
+    public void shouldKeepSmartInitializingSingletonsEager() {
+        assertThat(isLazyInit("smartBean")).isFalse();
+        assertThat(isLazyInit("smartFactoryBean")).isFalse();
+    }
+
+    /**
+     * Documented limitation: bean types are resolved from the definitions only, so a {@code @Bean} method declaring an
+     * interface return type hides the {@link SmartInitializingSingleton} instance behind it.
+     */
+    @Test
+    public void shouldMakeSmartInitializingSingletonBehindInterfaceLazy() {
+        assertThat(isLazyInit("smartFactoryBeanBehindInterface")).isTrue();
+    }
+
+    private boolean isLazyInit(String beanName) {
+        return beanFactory.getBeanDefinition(beanName).isLazyInit();
+    }
+}
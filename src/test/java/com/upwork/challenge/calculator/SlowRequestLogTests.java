@@ -0,0 +1,53 @@
+package com.upwork.challenge.calculator;
+
+import com.upwork.challenge.calculator.support.SlowRequestLog;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Slow request log unit test suite. Test methods' names are self-explanatory.
+ */
+public class SlowRequestLogTests {
+
+    @Test
+    public void shouldKeepNothingWithZeroCapacity() {
+        SlowRequestLog slowRequestLog = new SlowRequestLog(0);
+
+        slowRequestLog.add(slowRequest("/first"));
+
+        assertThat(slowRequestLog.getEntries()).isEmpty();
+    }
+
+    @Test
+    public void shouldReturnMostRecentEntryFirst() {
+        SlowRequestLog slowRequestLog = new SlowRequestLog(3);
+
+        slowRequestLog.add(slowRequest("/first"));
+        slowRequestLog.add(slowRequest("/second"));
+
+        assertThat(slowRequestLog.getEntries())
+                .extracting(SlowRequestLog.SlowRequest::getUri)
+                .containsExactly("/second", "/first");
+    }
+
+    @Test
+    public void shouldEvictOldestEntryAtCapacity() {
+        SlowRequestLog slowRequestLog = new SlowRequestLog(2);
+
+        slowRequestLog.add(slowRequest("/first"));
+        slowRequestLog.add(slowRequest("/second"));
+        slowRequestLog.add(slowRequest("/third"));
+
+        assertThat(slowRequestLog.getEntries())
+                .extracting(SlowRequestLog.SlowRequest::getUri)
+                .containsExactly("/third", "/second");
+    }
+
+    private static SlowRequestLog.SlowRequest slowRequest(String uri) {
+        return new SlowRequestLog.SlowRequest(Instant.now(), "GET", uri, 200, 1000, Collections.emptyMap());
+    }
+}
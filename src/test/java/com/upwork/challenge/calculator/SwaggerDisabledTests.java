@@ -0,0 +1,48 @@
+package com.upwork.challenge.calculator;
+
+import io.restassured.http.ContentType;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.junit4.SpringRunner;
+import springfox.documentation.spring.web.plugins.Docket;
+
+import static io.restassured.RestAssured.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration test suite for the application with Swagger disabled. Requests set their own port and base path, so the
+ * global Rest-Assured configuration of {@link ApplicationTests} is left untouched. Test methods' names are
+ * self-explanatory.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "api.swagger.enabled=false")
+public class SwaggerDisabledTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    public void shouldNotRegisterDocket() {
+        assertThat(applicationContext.getBeanNamesForType(Docket.class)).isEmpty();
+    }
+
+    @Test
+    public void shouldNotServeApiDocs() {
+        given()
+            .port(port)
+            .basePath("")
+            .accept(ContentType.JSON)
+        .when()
+            .get("/v2/api-docs")
+        .then()
+            .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+}